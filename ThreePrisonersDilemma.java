@@ -44,6 +44,24 @@ public class ThreePrisonersDilemma {
 			String result = getClass().getName();
 			return result.substring(result.indexOf('$')+1);
 		}
+
+		// Called before each match by code that reuses one Player across many
+		// matches instead of calling makePlayer. Override it if your strategy
+		// keeps any state of its own between rounds.
+		void reset() {
+		}
+	}
+
+	/* All randomness in the game goes through random(). By default it is just
+	 Math.random(), but setting rng makes every strategy, and every match length,
+	 reproducible from the seed. Each thread must use its own instance for that. */
+
+	java.util.Random rng = null;
+
+	double random() {
+		if (rng == null)
+			return Math.random();
+		return rng.nextDouble();
 	}
 	
 	/* Here are four simple strategies: */
@@ -65,7 +83,7 @@ public class ThreePrisonersDilemma {
 	class RandomPlayer extends Player {
 		//RandomPlayer randomly picks his action each time
 		int selectAction(int n, int[] myHistory, int[] oppHistory1, int[] oppHistory2) {
-			if (Math.random() < 0.5)
+			if (random() < 0.5)
 				return 0;  //cooperates half the time
 			else
 				return 1;  //defects half the time
@@ -481,7 +499,11 @@ class HybridPlayer1 extends Player { // extends Player
 		//Note that this class has a non-trivial constructor.
 		int action;
 		FreakyPlayer() {
-			if (Math.random() < 0.5)
+			reset();
+		}
+
+		void reset() {
+			if (random() < 0.5)
 				action = 0;  //cooperates half the time
 			else
 				action = 1;  //defects half the time
@@ -497,7 +519,7 @@ class HybridPlayer1 extends Player { // extends Player
 		//and uses the 'tit-for-tat' strategy against them 
 		int selectAction(int n, int[] myHistory, int[] oppHistory1, int[] oppHistory2) {
 			if (n==0) return 0; //cooperate by default
-			if (Math.random() < 0.5)
+			if (random() < 0.5)
 				return oppHistory1[n-1];
 			else
 				return oppHistory2[n-1];
@@ -512,7 +534,7 @@ class HybridPlayer1 extends Player { // extends Player
 					return 1;
 				else
 				{
-					if (Math.random() < 0.5)
+					if (random() < 0.5)
 						return oppHistory1[n-1];
 					else
 						return oppHistory2[n-1];
@@ -532,7 +554,7 @@ class HybridPlayer1 extends Player { // extends Player
 				if ((oppHistory1[n-1]==1 || oppHistory1[n-1]==1))
 				// if either one retaliate, there is one T4T- so play T4T too.
 					{
-						if (Math.random() < 0.5)
+						if (random() < 0.5)
 							return oppHistory1[n-1];
 						else
 							return oppHistory2[n-1];
@@ -540,7 +562,7 @@ class HybridPlayer1 extends Player { // extends Player
 				else
 				//play random if there is no T4T
 					{
-						if (Math.random() < 0.5)
+						if (random() < 0.5)
 							return 1;
 						else
 							return 0;
@@ -549,9 +571,53 @@ class HybridPlayer1 extends Player { // extends Player
 		}	
 	}
 
+	class QLearningPlayer extends Player {
+		//QLearningPlayer picks the action with the highest learned value for the
+		//last qMemory rounds of joint play. While learning it also explores with
+		//probability qEpsilon and updates its table after every round.
+		float[] q; // q[2*state + action], with states numbered by qState
+		boolean learning;
+		int lastState, lastAction;
+
+		QLearningPlayer(float[] q, boolean learning) {
+			this.q = q;
+			this.learning = learning;
+		}
+
+		void reset() {
+			lastState = 0;
+			lastAction = 0;
+		}
+
+		int selectAction(int n, int[] myHistory, int[] oppHistory1, int[] oppHistory2) {
+			int state = qState(n, myHistory, oppHistory1, oppHistory2);
+			if (learning && n > 0)
+				learn(payoff[myHistory[n-1]][oppHistory1[n-1]][oppHistory2[n-1]],
+						Math.max(q[2*state], q[2*state+1]));
+			int action;
+			if (learning && random() < qEpsilon)
+				action = (random() < 0.5) ? 0 : 1;
+			else
+				action = (q[2*state+1] > q[2*state]) ? 1 : 0; //cooperate on ties
+			lastState = state;
+			lastAction = action;
+			return action;
+		}
+
+		// The last round has no next state, so its payoff is learned here instead.
+		void endMatch(int rounds, int[] myHistory, int[] oppHistory1, int[] oppHistory2) {
+			if (learning)
+				learn(payoff[myHistory[rounds-1]][oppHistory1[rounds-1]][oppHistory2[rounds-1]], 0);
+		}
+
+		void learn(int reward, float nextValue) {
+			int i = 2*lastState + lastAction;
+			q[i] = q[i] + qAlpha * (reward + qGamma * nextValue - q[i]);
+		}
+	}
+
 
 
-	
 	/* In our tournament, each pair of strategies will play one match against each other. 
 	 This procedure simulates a single match and returns the scores. */
 	float[] scoresOfMatch(Player A, Player B, Player C, int rounds) {
@@ -582,7 +648,32 @@ class HybridPlayer1 extends Player { // extends Player
 		result[result.length-1] = next;
 		return result;
 	}
-	
+
+	/* scoresOfMatch regrows every history each round, which is fine for one tournament
+	 but far too much copying when millions of matches are played. This version writes
+	 the plays into caller-supplied history buffers (at least rounds long) and the scores
+	 into result, so it allocates nothing. The players only ever read the first n entries
+	 of each history, so the longer buffers make no difference to them. */
+	void scoresOfMatch(Player A, Player B, Player C, int rounds,
+			int[] HistoryA, int[] HistoryB, int[] HistoryC, float[] result) {
+		float ScoreA = 0, ScoreB = 0, ScoreC = 0;
+
+		for (int i=0; i<rounds; i++) {
+			int PlayA = A.selectAction(i, HistoryA, HistoryB, HistoryC);
+			int PlayB = B.selectAction(i, HistoryB, HistoryC, HistoryA);
+			int PlayC = C.selectAction(i, HistoryC, HistoryA, HistoryB);
+			ScoreA = ScoreA + payoff[PlayA][PlayB][PlayC];
+			ScoreB = ScoreB + payoff[PlayB][PlayC][PlayA];
+			ScoreC = ScoreC + payoff[PlayC][PlayA][PlayB];
+			HistoryA[i] = PlayA;
+			HistoryB[i] = PlayB;
+			HistoryC[i] = PlayC;
+		}
+		result[0] = ScoreA/rounds;
+		result[1] = ScoreB/rounds;
+		result[2] = ScoreC/rounds;
+	}
+
 	/* The procedure makePlayer is used to reset each of the Players 
 	 (strategies) in between matches. When you add your own strategy,
 	 you will need to add a new entry to makePlayer, and change numPlayers.*/
@@ -619,11 +710,56 @@ class HybridPlayer1 extends Player { // extends Player
 		}
 		throw new RuntimeException("Bad argument passed to makePlayer");
 	}
-	
+
+	/* isDeterministic tells the spatial tournament which strategies never call
+	 random(), so that their matches can be played once and cached. If your
+	 new strategy is deterministic, add its makePlayer number here as well. */
+	boolean isDeterministic(int which) {
+		switch (which) {
+		case 0: case 1: case 3: case 6: case 7: case 8: case 9:
+		case 12: case 13: case 14:
+			return true;
+		}
+		return false;
+	}
+
 	/* Finally, the remaining code actually runs the tournament. */
 	
 	public static void main (String[] args) {
 		ThreePrisonersDilemma instance = new ThreePrisonersDilemma();
+		if (args.length > 0 && args[0].equals("spatial")) {
+			// java ThreePrisonersDilemma spatial [width [height [generations [seed]]]]
+			int width = 1000, height = 1000, generations = 20; // a million cells, 20 generations
+			long seed = new java.util.Random().nextLong();
+			if (args.length >= 2) width = height = Integer.parseInt(args[1]); // square unless a height follows
+			if (args.length >= 3) height = Integer.parseInt(args[2]);
+			if (args.length >= 4) generations = Integer.parseInt(args[3]);
+			if (args.length >= 5) seed = Long.parseLong(args[4]);
+			if (width <= 0 || height <= 0 || generations < 0) {
+				System.out.println("Usage: java ThreePrisonersDilemma spatial [width [height [generations [seed]]]]");
+				System.out.println("width and height must be positive, generations must not be negative.");
+				return;
+			}
+			System.out.println("Spatial tournament on " + width + "x" + height
+				+ " for " + generations + " generations, seed " + seed);
+			instance.runSpatialTournament(width, height, generations, seed);
+			return;
+		}
+		if (args.length > 0 && args[0].equals("train")) {
+			// java ThreePrisonersDilemma train [episodes [seed]]
+			int episodes = 5000000;
+			long seed = new java.util.Random().nextLong();
+			if (args.length >= 2) episodes = Integer.parseInt(args[1]);
+			if (args.length >= 3) seed = Long.parseLong(args[2]);
+			if (episodes <= 0) {
+				System.out.println("Usage: java ThreePrisonersDilemma train [episodes [seed]]");
+				System.out.println("episodes must be positive.");
+				return;
+			}
+			System.out.println("Training QLearningPlayer for " + episodes + " episodes, seed " + seed);
+			instance.runQLearning(episodes, seed);
+			return;
+		}
 		instance.runTournament();
 	}
 	
@@ -641,7 +777,7 @@ class HybridPlayer1 extends Player { // extends Player
 				Player A = makePlayer(i); // Create a fresh copy of each player
 				Player B = makePlayer(j);
 				Player C = makePlayer(k);
-				int rounds = 90 + (int)Math.rint(20 * Math.random()); // Between 90 and 110 rounds
+				int rounds = 90 + (int)Math.rint(20 * random()); // Between 90 and 110 rounds
 				float[] matchResults = scoresOfMatch(A, B, C, rounds); // Run match
 				totalScore[i] = totalScore[i] + matchResults[0];
 				totalScore[j] = totalScore[j] + matchResults[1];
@@ -671,5 +807,298 @@ class HybridPlayer1 extends Player { // extends Player
 				+ totalScore[sortedOrder[i]] + " points.");
 		
 	} // end of runTournament()
-	
+
+	/* The spatial variant of the game puts one strategy on every cell of a width x height
+	 torus. Each generation, every cell plays one match with each of the four triples made
+	 of itself and two adjacent neighbours (north and east, east and south, south and west,
+	 west and north), and then copies the strategy of whichever cell in its neighbourhood,
+	 itself included, scored best on average.
+
+	 The grid stores each cell's strategy as a byte holding its makePlayer number rather
+	 than a Player object, and is double-buffered: every cell reads the current grid and
+	 writes the next one, so a generation can be split into row stripes that run in
+	 parallel. Each stripe is its own ThreePrisonersDilemma with its own seeded rng and
+	 its own Player for every strategy and seat, so stripes share nothing while they play
+	 and a run depends only on its seed. Match lengths are drawn between 90 and 110 rounds
+	 as in runTournament. A triple of deterministic strategies always scores the same for
+	 a given length, so it is played once per length up front and cached. */
+
+	int spatialStripes = 64;
+	float[][] tripleCache; // score of i against (j,k) in a match of 90+r rounds at [r][(i*numPlayers + j)*numPlayers + k], NaN if not cached
+	Player[][] spatialSeats; // spatialSeats[seat][which], this stripe's reusable players
+
+	void buildTripleCache() {
+		tripleCache = new float[21][numPlayers*numPlayers*numPlayers];
+		for (int r=0; r<21; r++) {
+			float[] cache = tripleCache[r];
+			java.util.Arrays.fill(cache, Float.NaN);
+			for (int i=0; i<numPlayers; i++) for (int j=0; j<numPlayers; j++) for (int k=0; k<numPlayers; k++) {
+				if (!isDeterministic(i) || !isDeterministic(j) || !isDeterministic(k))
+					continue;
+				if (!Float.isNaN(cache[(i*numPlayers + j)*numPlayers + k]))
+					continue; // already filled in as a rotation of an earlier triple
+				float[] matchResults = scoresOfMatch(makePlayer(i), makePlayer(j), makePlayer(k), 90 + r);
+				// B sees (C,A) and C sees (A,B) as their opponents, so one match fills three entries
+				cache[(i*numPlayers + j)*numPlayers + k] = matchResults[0];
+				cache[(j*numPlayers + k)*numPlayers + i] = matchResults[1];
+				cache[(k*numPlayers + i)*numPlayers + j] = matchResults[2];
+			}
+		}
+	}
+
+	// Score of strategy i against strategies j and k, from the cache when possible.
+	// The buffers are owned by the calling stripe, so stripes never share them.
+	float tripleScore(int i, int j, int k, int[] HistoryA, int[] HistoryB, int[] HistoryC, float[] matchResults) {
+		int r = (int)Math.rint(20 * random()); // Between 90 and 110 rounds
+		float cached = tripleCache[r][(i*numPlayers + j)*numPlayers + k];
+		if (!Float.isNaN(cached))
+			return cached;
+		Player A = spatialSeats[0][i], B = spatialSeats[1][j], C = spatialSeats[2][k];
+		A.reset();
+		B.reset();
+		C.reset();
+		scoresOfMatch(A, B, C, 90 + r, HistoryA, HistoryB, HistoryC, matchResults);
+		return matchResults[0];
+	}
+
+	// Plays every cell in rows [rowFrom, rowTo) against its four neighbouring triples.
+	void scoreRows(byte[] grid, float[] score, int width, int height, int rowFrom, int rowTo) {
+		int[] HistoryA = new int[110], HistoryB = new int[110], HistoryC = new int[110];
+		float[] matchResults = new float[3];
+		for (int y=rowFrom; y<rowTo; y++) {
+			int north = ((y+height-1) % height) * width;
+			int south = ((y+1) % height) * width;
+			int row = y * width;
+			for (int x=0; x<width; x++) {
+				int west = (x+width-1) % width;
+				int east = (x+1) % width;
+				int me = grid[row+x];
+				int n = grid[north+x], e = grid[row+east], s = grid[south+x], w = grid[row+west];
+				score[row+x] = (tripleScore(me, n, e, HistoryA, HistoryB, HistoryC, matchResults)
+						+ tripleScore(me, e, s, HistoryA, HistoryB, HistoryC, matchResults)
+						+ tripleScore(me, s, w, HistoryA, HistoryB, HistoryC, matchResults)
+						+ tripleScore(me, w, n, HistoryA, HistoryB, HistoryC, matchResults)) / 4;
+			}
+		}
+	}
+
+	// Each cell in rows [rowFrom, rowTo) takes the strategy of its best scoring neighbour.
+	// Ties go to the cell itself, so a strategy only spreads by strictly beating the incumbent.
+	void adoptRows(byte[] grid, byte[] next, float[] score, int width, int height, int rowFrom, int rowTo) {
+		for (int y=rowFrom; y<rowTo; y++) {
+			int north = ((y+height-1) % height) * width;
+			int south = ((y+1) % height) * width;
+			int row = y * width;
+			for (int x=0; x<width; x++) {
+				int best = row + x;
+				if (score[north+x] > score[best]) best = north + x;
+				if (score[row+(x+1)%width] > score[best]) best = row + (x+1)%width;
+				if (score[south+x] > score[best]) best = south + x;
+				if (score[row+(x+width-1)%width] > score[best]) best = row + (x+width-1)%width;
+				next[row+x] = grid[best];
+			}
+		}
+	}
+
+	void runSpatialTournament(int width, int height, int generations, long seed) {
+		byte[] grid = new byte[width*height];
+		byte[] next = new byte[width*height];
+		float[] score = new float[width*height];
+		rng = new java.util.Random(seed);
+		for (int c=0; c<grid.length; c++)
+			grid[c] = (byte)(random() * numPlayers);
+		buildTripleCache();
+
+		// The number of stripes is fixed rather than taken from the core count, since each
+		// stripe has its own rng and a run must come out the same on any machine. Having
+		// more stripes than cores also keeps a slow stripe (one full of random players,
+		// which can't use the cache) from holding the whole generation up.
+		int stripes = Math.min(height, spatialStripes);
+		int rowsPerStripe = (height + stripes - 1) / stripes;
+		ThreePrisonersDilemma[] worlds = new ThreePrisonersDilemma[stripes];
+		for (int s=0; s<stripes; s++) {
+			worlds[s] = new ThreePrisonersDilemma();
+			worlds[s].rng = new java.util.Random(seed + 1 + s);
+			worlds[s].tripleCache = tripleCache;
+			worlds[s].spatialSeats = new Player[3][numPlayers];
+			for (int seat=0; seat<3; seat++)
+				for (int i=0; i<numPlayers; i++)
+					worlds[s].spatialSeats[seat][i] = worlds[s].makePlayer(i);
+		}
+
+		for (int g=0; g<generations; g++) {
+			final byte[] current = grid, following = next;
+			// Every score must be in before any cell adopts, hence two separate passes.
+			java.util.stream.IntStream.range(0, stripes).parallel().forEach(s ->
+				worlds[s].scoreRows(current, score, width, height, s*rowsPerStripe, Math.min(height, (s+1)*rowsPerStripe)));
+			java.util.stream.IntStream.range(0, stripes).parallel().forEach(s ->
+				adoptRows(current, following, score, width, height, s*rowsPerStripe, Math.min(height, (s+1)*rowsPerStripe)));
+			grid = following;
+			next = current;
+			if (verbose) {
+				int[] population = countStrategies(grid);
+				String line = "Generation " + (g+1) + ":";
+				for (int i=0; i<numPlayers; i++)
+					if (population[i] > 0)
+						line = line + " " + makePlayer(i).name() + "=" + population[i];
+				System.out.println(line);
+			}
+		}
+
+		int[] population = countStrategies(grid);
+		int[] sortedOrder = new int[numPlayers];
+		// This loop sorts the strategies by how many cells they hold.
+		for (int i=0; i<numPlayers; i++) {
+			int j=i-1;
+			for (; j>=0; j--) {
+				if (population[i] > population[sortedOrder[j]])
+					sortedOrder[j+1] = sortedOrder[j];
+				else break;
+			}
+			sortedOrder[j+1] = i;
+		}
+
+		if (verbose) System.out.println();
+		System.out.println("Spatial Results");
+		for (int i=0; i<numPlayers; i++)
+			System.out.println(makePlayer(sortedOrder[i]).name() + ": "
+				+ population[sortedOrder[i]] + " cells.");
+	} // end of runSpatialTournament()
+
+	int[] countStrategies(byte[] grid) {
+		int[] population = new int[numPlayers];
+		for (int c=0; c<grid.length; c++)
+			population[grid[c]]++;
+		return population;
+	}
+
+	/* QLearningPlayer learns its strategy by playing matches instead of having it written
+	 by hand. Its state is the last qMemory rounds of joint play, each round packed into
+	 three bits (my action, then each opponent's), plus how many of those rounds have been
+	 played yet, since the first few rounds of a match have less history to go on. */
+
+	int qMemory = 2;
+	float qAlpha = 0.05f;   // learning rate
+	float qGamma = 0.95f;   // discount on the value of the next round
+	float qEpsilon = 0.1f;  // chance of exploring with a random action while learning
+	int qActors = 16;       // logical actors, fixed so training comes out the same on any machine
+
+	int qStates() {
+		return (qMemory+1) << (3*qMemory);
+	}
+
+	int qState(int n, int[] myHistory, int[] oppHistory1, int[] oppHistory2) {
+		int seen = Math.min(n, qMemory);
+		int state = 0;
+		for (int i=n-seen; i<n; i++)
+			state = (state << 3) | (myHistory[i] << 2) | (oppHistory1[i] << 1) | oppHistory2[i];
+		return (seen << (3*qMemory)) | state;
+	}
+
+	/* Plays episodes training matches with a learning QLearningPlayer in the first seat and
+	 returns its average score. Each opponent is drawn uniformly from the makePlayer pool
+	 plus a greedy copy of the learner itself, for self-play. All players and buffers are
+	 set up once, so the matches themselves allocate nothing. */
+	float playTrainingEpisodes(float[] q, int episodes) {
+		QLearningPlayer learner = new QLearningPlayer(q, true);
+		Player[] seatB = new Player[numPlayers+1], seatC = new Player[numPlayers+1];
+		for (int i=0; i<numPlayers; i++) {
+			seatB[i] = makePlayer(i);
+			seatC[i] = makePlayer(i);
+		}
+		seatB[numPlayers] = new QLearningPlayer(q, false);
+		seatC[numPlayers] = new QLearningPlayer(q, false);
+		int[] HistoryA = new int[110], HistoryB = new int[110], HistoryC = new int[110];
+		float[] matchResults = new float[3];
+		float totalScore = 0;
+
+		for (int e=0; e<episodes; e++) {
+			Player B = seatB[(int)(random() * (numPlayers+1))];
+			Player C = seatC[(int)(random() * (numPlayers+1))];
+			learner.reset();
+			B.reset();
+			C.reset();
+			int rounds = 90 + (int)Math.rint(20 * random()); // Between 90 and 110 rounds
+			scoresOfMatch(learner, B, C, rounds, HistoryA, HistoryB, HistoryC, matchResults);
+			learner.endMatch(rounds, HistoryA, HistoryB, HistoryC);
+			totalScore = totalScore + matchResults[0];
+		}
+		return totalScore / episodes;
+	}
+
+	/* Trains a Q-table with several actors in parallel. Each actor is its own
+	 ThreePrisonersDilemma with its own seeded rng, and works on a private copy of the
+	 table, so the actors never lock or share anything while they play. After every
+	 epoch the copies are averaged back into the shared table in actor order. Because
+	 of that the result only depends on the seed and the number of actors, not on how
+	 many threads run them or how those threads happen to be scheduled. Episodes are
+	 rounded up to whole epochs, and the number actually played is left in qEpisodesPlayed. */
+	long qEpisodesPlayed;
+
+	float[] trainQTable(int episodes, int actors, int episodesPerEpoch, long seed) {
+		float[] q = new float[2*qStates()];
+		float[][] tables = new float[actors][q.length];
+		ThreePrisonersDilemma[] worlds = new ThreePrisonersDilemma[actors];
+		float[] averageScore = new float[actors];
+		for (int a=0; a<actors; a++) {
+			worlds[a] = new ThreePrisonersDilemma();
+			worlds[a].qMemory = qMemory;
+			worlds[a].qAlpha = qAlpha;
+			worlds[a].qGamma = qGamma;
+			worlds[a].qEpsilon = qEpsilon;
+			worlds[a].rng = new java.util.Random(seed + a);
+		}
+
+		int perActor = Math.max(1, episodesPerEpoch / actors);
+		int epochs = (episodes + perActor*actors - 1) / (perActor*actors);
+		for (int epoch=0; epoch<epochs; epoch++) {
+			for (int a=0; a<actors; a++)
+				System.arraycopy(q, 0, tables[a], 0, q.length);
+			java.util.stream.IntStream.range(0, actors).parallel().forEach(a ->
+				averageScore[a] = worlds[a].playTrainingEpisodes(tables[a], perActor));
+			for (int i=0; i<q.length; i++) {
+				float sum = 0;
+				for (int a=0; a<actors; a++)
+					sum = sum + tables[a][i];
+				q[i] = sum / actors;
+			}
+			float score = 0;
+			for (int a=0; a<actors; a++)
+				score = score + averageScore[a] / actors;
+			if (verbose)
+				System.out.println("Epoch " + (epoch+1) + ": QLearningPlayer averaged " + score + " points.");
+		}
+		qEpisodesPlayed = (long)epochs * perActor * actors;
+		return q;
+	}
+
+	// The trained policy as an ordinary Player: it plays greedily and no longer learns.
+	Player exportPolicy(float[] q) {
+		return new QLearningPlayer(q.clone(), false);
+	}
+
+	void runQLearning(int episodes, long seed) {
+		int actors = qActors;
+		int cores = Runtime.getRuntime().availableProcessors();
+		rng = new java.util.Random(seed + actors); // actors use seed to seed+actors-1
+		long start = System.nanoTime();
+		float[] q = trainQTable(episodes, actors, 100000, seed);
+		double minutes = (System.nanoTime() - start) / 6e10;
+		System.out.println("Trained on " + qEpisodesPlayed + " episodes with " + actors + " actors on "
+			+ cores + " cores, "
+			+ (long)(qEpisodesPlayed / minutes) + " episodes per minute.");
+
+		// Play the exported policy once against every pair from the pool, as in runTournament.
+		Player policy = exportPolicy(q);
+		float totalScore = 0;
+		int matches = 0;
+		for (int j=0; j<numPlayers; j++) for (int k=j; k<numPlayers; k++) {
+			int rounds = 90 + (int)Math.rint(20 * random()); // Between 90 and 110 rounds
+			totalScore = totalScore + scoresOfMatch(policy, makePlayer(j), makePlayer(k), rounds)[0];
+			matches = matches + 1;
+		}
+		System.out.println(policy.name() + " averaged " + totalScore / matches
+			+ " points per match against the pool.");
+	}
+
 } // end of class PrisonersDilemma